@@ -0,0 +1,39 @@
+package com.authapp.demo.audit;
+
+import com.authapp.demo.entity.AuditEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes audit events to the database as a single JDBC batch.
+ * Plain JDBC is used because Hibernate cannot batch inserts of IDENTITY-keyed entities.
+ */
+@Component
+public class AuditEventWriter {
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_event (action, entity_type, entity_id, actor, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given events in one batch.
+     *
+     * @param events the events to write
+     */
+    public void write(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getAction().name());
+            ps.setString(2, event.getEntityType());
+            ps.setObject(3, event.getEntityId());
+            ps.setString(4, event.getActor());
+            ps.setTimestamp(5, Timestamp.from(event.getOccurredAt()));
+        });
+    }
+}
@@ -0,0 +1,231 @@
+package com.authapp.demo.audit;
+
+import com.authapp.demo.entity.AuditEvent;
+import com.authapp.demo.entity.AuditEvent.Action;
+import com.authapp.demo.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records audit events for mutating operations without adding a database round trip to the request.
+ * Events are put on a bounded, lock-free in-memory buffer and a background writer thread flushes them
+ * in JDBC batches once a batch is full or the flush interval has elapsed, whichever comes first.
+ * When the buffer is full the configured {@link OverflowPolicy} decides what happens to new events.
+ * The buffer is drained when the application shuts down, after the web server has stopped taking requests.
+ */
+@Service
+public class AuditService implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
+
+    /**
+     * Enum representing what to do with an event when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discard the new event and count it as dropped.
+         */
+        DROP,
+        /**
+         * Wait up to the offer timeout for space, then discard the event.
+         */
+        BLOCK,
+        /**
+         * Write the event synchronously on the calling thread.
+         */
+        CALLER_RUNS
+    }
+
+    @Autowired
+    private AuditEventWriter writer;
+
+    @Value("${audit.buffer-capacity:10000}")
+    private int capacity;
+
+    @Value("${audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${audit.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${audit.overflow-policy:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${audit.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    @Value("${audit.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private final ConcurrentLinkedQueue<AuditEvent> buffer = new ConcurrentLinkedQueue<>();
+    // the queue itself is unbounded, so its size is tracked (and bounded) separately
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    /**
+     * Records that an entity was created, updated or deleted by the caller identified by the token.
+     *
+     * @param action the operation performed
+     * @param entityType the class of the affected entity
+     * @param entityId the ID of the affected entity
+     * @param authHeader the Authorization header of the request
+     */
+    public void record(Action action, Class<?> entityType, Long entityId, String authHeader) {
+        AuditEvent event = new AuditEvent(action, entityType.getSimpleName(), entityId,
+                JwtUtil.extractActor(authHeader), Instant.now());
+        if (!running) {
+            writeNow(event);
+            return;
+        }
+        if (tryEnqueue(event)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+                while (System.nanoTime() - deadline < 0) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                    if (tryEnqueue(event)) {
+                        return;
+                    }
+                }
+                drop(event);
+            }
+            case CALLER_RUNS -> writeNow(event);
+            default -> drop(event);
+        }
+    }
+
+    /**
+     * Gets the number of events discarded because the buffer was full.
+     * @return the dropped event count
+     */
+    public long getDroppedCount() { return dropped.get(); }
+
+    /**
+     * Gets the number of events waiting to be written.
+     * @return the buffered event count
+     */
+    public int getPendingCount() { return size.get(); }
+
+    private boolean tryEnqueue(AuditEvent event) {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        buffer.offer(event);
+        if (current + 1 == batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    private void drop(AuditEvent event) {
+        long count = dropped.incrementAndGet();
+        if (count % 1000 == 1) {
+            logger.warn("Audit buffer full, dropped {} event(s) so far, latest: {}", count, event);
+        }
+    }
+
+    private void writeNow(AuditEvent event) {
+        try {
+            writer.write(List.of(event));
+        } catch (Exception e) {
+            logger.error("Failed to write audit event {}", event, e);
+        }
+    }
+
+    private void runWriter() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        long nextFlush = System.nanoTime() + intervalNanos;
+        while (running) {
+            long now = System.nanoTime();
+            if (size.get() >= batchSize) {
+                flushBatch();
+            } else if (now - nextFlush >= 0) {
+                flushAll();
+                nextFlush = System.nanoTime() + intervalNanos;
+            } else {
+                LockSupport.parkNanos(this, nextFlush - now);
+            }
+        }
+        flushAll();
+    }
+
+    private void flushAll() {
+        while (!buffer.isEmpty()) {
+            flushBatch();
+        }
+    }
+
+    private void flushBatch() {
+        List<AuditEvent> batch = new ArrayList<>(Math.min(batchSize, size.get()));
+        AuditEvent event;
+        while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+            batch.add(event);
+        }
+        size.addAndGet(-batch.size());
+        try {
+            writer.write(batch);
+        } catch (Exception e) {
+            logger.error("Failed to write batch of {} audit event(s)", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            logger.warn("Audit writer did not drain within {} ms, {} event(s) pending", shutdownTimeoutMs, size.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the web server, so every request that can
+     * record an event has completed before the buffer is drained.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,369 @@
+package com.authapp.demo.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of already-encoded response bodies for hot single-resource reads.
+ * Each resource is cached separately per negotiated format (JSON or CBOR). A hit writes the stored bytes
+ * (or their precompressed gzip variant) without touching JPA or Jackson, and takes no lock.
+ * Entries are bounded by their total size in bytes. Eviction approximates least recently used with a CLOCK:
+ * a hit only marks its entry as referenced, and eviction gives marked entries a second chance.
+ * Writes invalidate exactly the entries that embed the changed entity. Every invalidation bumps a
+ * version, and a response loaded while a write was in progress is not stored, so stale data cannot be cached.
+ * Invalidation only reaches this instance's cache, so entries also expire after a fixed time to live,
+ * which bounds how long another instance behind the same load balancer can serve a changed entity.
+ */
+@Component
+public class ResponseCache {
+    /**
+     * An encoded response body together with the version it was loaded at and when it expires.
+     */
+    private static final class Entry {
+        final String key;
+        final byte[] body;
+        final byte[] gzipBody;
+        final long version;
+        final long expiresAt;
+        // set by hits without locking, cleared when the eviction clock passes over the entry
+        volatile boolean referenced;
+
+        Entry(String key, byte[] body, byte[] gzipBody, long version, long expiresAt) {
+            this.key = key;
+            this.body = body;
+            this.gzipBody = gzipBody;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Estimated heap footprint of the entry: both bodies, the key's characters (compact Latin-1 strings)
+         * and a fixed allowance for the map node, entry, arrays and string objects.
+         */
+        long size() {
+            return ENTRY_OVERHEAD + key.length() + body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+
+    /**
+     * Bytes counted per entry on top of its bodies and key, so that many tiny entries cannot exceed the bound.
+     */
+    static final int ENTRY_OVERHEAD = 160;
+
+    /**
+     * Formats a cached body can be encoded in, the first one is used when the client has no preference.
+     */
+    private static final List<MediaType> FORMATS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Value("${response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${response-cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${response-cache.gzip:true}")
+    private boolean gzip;
+
+    @Value("${response-cache.gzip-min-bytes:2048}")
+    private int gzipMinBytes;
+
+    @Value("${response-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    private final AtomicLong version = new AtomicLong();
+
+    // read without locking, changed only while holding this
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>(256);
+    // guarded by this: entries in insertion order for the eviction clock (may hold removed entries), and their size
+    private final ArrayDeque<Entry> clock = new ArrayDeque<>();
+    private long totalBytes;
+
+    /**
+     * Cache key of a single user.
+     * @param id the user ID
+     * @return the key
+     */
+    public static String userKey(Long id) { return "user:" + id; }
+
+    /**
+     * Cache key of a single vehicle.
+     * @param id the vehicle ID
+     * @return the key
+     */
+    public static String vehicleKey(Long id) { return "vehicle:" + id; }
+
+    /**
+     * Cache key of the list of vehicles owned by a user.
+     * @param userId the user ID
+     * @return the key
+     */
+    public static String vehiclesByUserKey(Long userId) { return "vehicles-by-user:" + userId; }
+
+    /**
+     * Returns the cached response for the key, or loads, encodes and caches it on a miss.
+     *
+     * @param key the cache key of the resource
+     * @param accept the request's Accept header, may be null
+     * @param acceptEncoding the request's Accept-Encoding header, may be null
+     * @param loader loads the resource, returning empty if it does not exist
+     * @return the encoded response, or 404 if the loader found nothing
+     */
+    public ResponseEntity<byte[]> serve(String key, String accept, String acceptEncoding, Supplier<Optional<?>> loader) {
+        return serve(key, accept, acceptEncoding, loader, body -> true);
+    }
+
+    /**
+     * Returns the cached response for the key, or loads and encodes it on a miss, caching it only
+     * if it passes the given check (e.g. an empty list for a user that does not exist is not stored).
+     *
+     * @param key the cache key of the resource
+     * @param accept the request's Accept header, may be null
+     * @param acceptEncoding the request's Accept-Encoding header, may be null
+     * @param loader loads the resource, returning empty if it does not exist
+     * @param cacheable decides whether a loaded resource may be stored
+     * @return the encoded response, or 404 if the loader found nothing
+     */
+    public ResponseEntity<byte[]> serve(String key, String accept, String acceptEncoding, Supplier<Optional<?>> loader,
+                                        Predicate<Object> cacheable) {
+        MediaType format = negotiate(accept);
+        String formatKey = key + ";" + format.getSubtype();
+        Entry entry = enabled ? get(formatKey) : null;
+        if (entry == null) {
+            long loadedAt = version.get();
+            Optional<?> body = loader.get();
+            if (body.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            entry = encode(formatKey, body.get(), format, loadedAt);
+            if (enabled && cacheable.test(body.get())) {
+                put(entry);
+            }
+        }
+        // the format always depends on Accept, the encoding on Accept-Encoding only when there is a gzip variant
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(format);
+        if (entry.gzipBody == null) {
+            return response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(entry.body);
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzipBody);
+        }
+        return response.body(entry.body);
+    }
+
+    /**
+     * Invalidates everything that embeds the user: the user itself, its vehicle list,
+     * and each of its vehicles (they include the owner's username).
+     * Must be called after the change is committed.
+     *
+     * @param userId the ID of the user that was changed or deleted
+     * @param vehicleIds the IDs of the vehicles owned by the user before the change
+     */
+    public void invalidateUser(Long userId, Collection<Long> vehicleIds) {
+        version.incrementAndGet();
+        synchronized (this) {
+            remove(userKey(userId));
+            remove(vehiclesByUserKey(userId));
+            vehicleIds.forEach(vehicleId -> remove(vehicleKey(vehicleId)));
+        }
+    }
+
+    /**
+     * Invalidates everything that embeds the vehicle: the vehicle itself, and the user entry and
+     * vehicle list of each given owner (e.g. both the old and the new owner after a transfer).
+     * Must be called after the change is committed.
+     *
+     * @param vehicleId the ID of the vehicle that was created, changed or deleted
+     * @param ownerIds the IDs of the users owning the vehicle before and after the change
+     */
+    public void invalidateVehicle(Long vehicleId, Long... ownerIds) {
+        version.incrementAndGet();
+        synchronized (this) {
+            remove(vehicleKey(vehicleId));
+            for (Long ownerId : ownerIds) {
+                if (ownerId == null) continue;
+                remove(userKey(ownerId));
+                remove(vehiclesByUserKey(ownerId));
+            }
+        }
+    }
+
+    /**
+     * Gets the estimated size of all cached entries.
+     * @return the size in bytes
+     */
+    public synchronized long getSize() { return totalBytes; }
+
+    // lock-free, only an expired entry takes the lock to be removed
+    private Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (ttlMs > 0 && System.nanoTime() - entry.expiresAt >= 0) {
+            removeExpired(entry);
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry;
+    }
+
+    private synchronized void removeExpired(Entry entry) {
+        if (entries.remove(entry.key, entry)) {
+            totalBytes -= entry.size();
+        }
+    }
+
+    private synchronized void put(Entry entry) {
+        long size = entry.size();
+        // a write happened while this entry was loading, it may already be stale
+        if (entry.version != version.get() || size > maxBytes) {
+            return;
+        }
+        removeVariant(entry.key);
+        entries.put(entry.key, entry);
+        clock.addLast(entry);
+        totalBytes += size;
+        while (totalBytes > maxBytes) {
+            Entry eldest = clock.pollFirst();
+            if (eldest == null) {
+                break;
+            }
+            if (entries.get(eldest.key) != eldest) {
+                continue; // already removed or replaced
+            }
+            if (eldest.referenced) {
+                eldest.referenced = false;
+                clock.addLast(eldest);
+            } else {
+                entries.remove(eldest.key);
+                totalBytes -= eldest.size();
+            }
+        }
+        // invalidations leave removed entries behind in the clock, drop them before they pile up
+        if (clock.size() > 2 * entries.size() + 64) {
+            clock.removeIf(queued -> entries.get(queued.key) != queued);
+        }
+    }
+
+    /**
+     * Picks the format with the highest quality in the Accept header. CBOR is only chosen when
+     * it is named explicitly, wildcards and unparseable headers get JSON. Media types with q=0 are refused.
+     */
+    private MediaType negotiate(String accept) {
+        if (accept == null) {
+            return FORMATS.get(0);
+        }
+        MediaType best = FORMATS.get(0);
+        double bestQuality = -1;
+        try {
+            for (MediaType requested : MediaType.parseMediaTypes(accept)) {
+                for (MediaType format : FORMATS) {
+                    boolean explicit = !requested.isWildcardType() && !requested.isWildcardSubtype();
+                    if (requested.getQualityValue() > 0 && requested.includes(format)
+                            && (explicit || format == FORMATS.get(0)) && requested.getQualityValue() > bestQuality) {
+                        best = format;
+                        bestQuality = requested.getQualityValue();
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return FORMATS.get(0);
+        }
+        return best;
+    }
+
+    /**
+     * Checks whether the Accept-Encoding header allows gzip, honouring q values: an explicit
+     * gzip entry decides on its own, otherwise a * wildcard does.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                return quality > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    // caller holds the lock, removes every format variant of the resource
+    private void remove(String key) {
+        for (MediaType format : FORMATS) {
+            removeVariant(key + ";" + format.getSubtype());
+        }
+    }
+
+    // caller holds the lock
+    private void removeVariant(String formatKey) {
+        Entry removed = entries.remove(formatKey);
+        if (removed != null) {
+            totalBytes -= removed.size();
+        }
+    }
+
+    private Entry encode(String formatKey, Object body, MediaType format, long loadedAt) {
+        ObjectMapper mapper = MediaType.APPLICATION_CBOR.equals(format) ? cborConverter.getObjectMapper() : objectMapper;
+        try {
+            byte[] encoded = mapper.writeValueAsBytes(body);
+            byte[] gzipped = null;
+            if (gzip && encoded.length >= gzipMinBytes) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length / 2);
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                    gzipOut.write(encoded);
+                }
+                gzipped = out.toByteArray();
+            }
+            return new Entry(formatKey, encoded, gzipped, loadedAt, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.authapp.demo.config;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Enables CBOR (application/cbor) as a binary alternative to JSON for internal service clients.
+ * Requests and responses are negotiated through the Content-Type and Accept headers on every endpoint.
+ */
+@Configuration
+public class CborConfig {
+    /**
+     * Creates the CBOR message converter from the same builder Spring Boot uses for the JSON ObjectMapper,
+     * so modules, features and the custom summary serializers apply identically in both formats.
+     * No ObjectMapper bean is declared here, since that would replace the auto-configured JSON one.
+     *
+     * @param builder the auto-configured Jackson builder
+     * @param jacksonBufferPool the buffer pool shared with the JSON ObjectMapper
+     * @return the CBOR HTTP message converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder,
+                                                                            RecyclerPool<BufferRecycler> jacksonBufferPool) {
+        CBORFactory factory = CBORFactory.builder().recyclerPool(jacksonBufferPool).build();
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(factory).build());
+    }
+}
@@ -0,0 +1,56 @@
+package com.authapp.demo.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tunes the Jackson pipeline shared by the JSON and CBOR message converters.
+ */
+@Configuration
+public class JacksonConfig {
+    /**
+     * Replaces reflective getter calls in bean serializers (User, Vehicle) with generated lambdas.
+     * Spring Boot registers every Module bean with the auto-configured ObjectMapper builder.
+     * Off unless {@code json.blackbird.enabled=true}: on these small entities it showed no consistent gain
+     * in JsonSerializationBenchmarkTest, which reports it as a separate variant.
+     *
+     * @return the Blackbird module
+     */
+    @Bean
+    @ConditionalOnProperty(name = "json.blackbird.enabled", havingValue = "true")
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Pool of the byte and char buffers Jackson encodes into. It is bounded and shared across threads,
+     * so buffers are reused by every request thread instead of being kept per thread.
+     *
+     * @param size the maximum number of pooled buffer sets
+     * @return the buffer pool
+     */
+    @Bean
+    public RecyclerPool<BufferRecycler> jacksonBufferPool(@Value("${json.buffer-pool-size:64}") int size) {
+        return JsonRecyclerPools.newBoundedPool(size);
+    }
+
+    /**
+     * Makes the JSON ObjectMapper use the shared buffer pool.
+     *
+     * @param jacksonBufferPool the buffer pool
+     * @return the builder customizer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jacksonBufferPoolCustomizer(RecyclerPool<BufferRecycler> jacksonBufferPool) {
+        return builder -> builder.factory(JsonFactory.builder().recyclerPool(jacksonBufferPool).build());
+    }
+}
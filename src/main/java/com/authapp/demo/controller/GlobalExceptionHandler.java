@@ -4,6 +4,7 @@
  */
 package com.authapp.demo.controller;
 
+import com.authapp.demo.util.UnknownFieldException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,17 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class GlobalExceptionHandler {
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    /**
+     * Handles requests for fields a resource does not have.
+     *
+     * @param ex the exception thrown
+     * @return a ResponseEntity containing the error message and HTTP 400 status
+     */
+    @ExceptionHandler(UnknownFieldException.class)
+    public ResponseEntity<String> handleUnknownField(UnknownFieldException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
     /**
      * Handles all exceptions, logs the error, and returns the error message as HTTP content.
      *
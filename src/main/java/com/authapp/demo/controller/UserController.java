@@ -1,13 +1,22 @@
 package com.authapp.demo.controller;
 
+import com.authapp.demo.audit.AuditService;
+import com.authapp.demo.cache.ResponseCache;
+import com.authapp.demo.entity.AuditEvent.Action;
 import com.authapp.demo.repository.UserRepository;
 import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 //import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 //import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.http.HttpStatus;
@@ -17,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import java.util.HashMap;
 import java.util.Map;
+import com.authapp.demo.util.FieldSelection;
 import com.authapp.demo.util.JwtUtil;
 import org.springframework.web.bind.annotation.RequestHeader;
 import com.authapp.demo.util.JwtUtil;
@@ -36,6 +46,24 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    /**
+     * Service recording who changed which user.
+     */
+    @Autowired
+    private AuditService auditService;
+
+    /**
+     * Cache of encoded single-user responses.
+     */
+    @Autowired
+    private ResponseCache responseCache;
+
+    /**
+     * Maximum number of IDs accepted by a single bulk lookup.
+     */
+    @Value("${api.bulk.max-ids:100}")
+    private int maxBulkIds;
+
     //private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     /**
@@ -65,23 +93,74 @@ public class UserController {
     /**
      * Retrieves all users in the system.
      *
-     * @return list of all users
+     * @param fields optional comma-separated list of fields to return, e.g. {@code ?fields=id,username}
+     * @return list of all users, or only the requested fields of each user
      */
     @GetMapping
-    public List<User> getAllUsers() {
+    public List<?> getAllUsers(@RequestParam(required = false) String fields) {
+        Set<String> selected = FieldSelection.parse(fields, FieldSelection.USER_FIELDS);
+        if (selected != null) {
+            return userRepository.findAllProjected(selected);
+        }
         return userRepository.findAll();
     }
 
+    /**
+     * Retrieves several users by their IDs with a single query.
+     * Duplicate and empty IDs are ignored before the limit on the number of IDs is applied.
+     * Unknown IDs are left out of the result, unlike {@code GET /api/vehicles?userIds=},
+     * which maps every requested user ID to a (possibly empty) list.
+     *
+     * @param ids the IDs of the users, e.g. {@code ?ids=1,2,3}
+     * @param fields optional comma-separated list of fields to return
+     * @return the users found keyed by ID in request order (unknown IDs are omitted),
+     *         or 400 if more than the allowed number of IDs is requested
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getUsersByIds(@RequestParam List<Long> ids, @RequestParam(required = false) String fields) {
+        Set<String> selected = FieldSelection.parse(fields, FieldSelection.USER_FIELDS);
+        Set<Long> uniqueIds = new LinkedHashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(uniqueIds::add);
+        if (uniqueIds.size() > maxBulkIds) {
+            return ResponseEntity.badRequest().body("At most " + maxBulkIds + " ids are allowed per request");
+        }
+        Map<Long, Object> found = new HashMap<>();
+        if (!uniqueIds.isEmpty()) {
+            if (selected != null) {
+                found.putAll(userRepository.findProjectedByIdIn(uniqueIds, selected));
+            } else {
+                userRepository.findByIdIn(uniqueIds).forEach(user -> found.put(user.getId(), user));
+            }
+        }
+        Map<Long, Object> response = new LinkedHashMap<>();
+        for (Long id : uniqueIds) {
+            Object user = found.get(id);
+            if (user != null) {
+                response.put(id, user);
+            }
+        }
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Retrieves a user by their ID.
      *
      * @param id the ID of the user
-     * @return the user if found, or 404 if not found
+     * @param fields optional comma-separated list of fields to return
+     * @param accept the Accept header, selects JSON or CBOR
+     * @param acceptEncoding the Accept-Encoding header, used to serve a precompressed cached body
+     * @return the user (or its requested fields) if found, or 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
-        Optional<User> user = userRepository.findById(id);
-        return user.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+    public ResponseEntity<?> getUserById(@PathVariable Long id, @RequestParam(required = false) String fields,
+                                         @RequestHeader(value = "Accept", required = false) String accept,
+                                         @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
+        Set<String> selected = FieldSelection.parse(fields, FieldSelection.USER_FIELDS);
+        if (selected != null) {
+            Map<String, Object> user = userRepository.findProjectedByIdIn(List.of(id), selected).get(id);
+            return user != null ? ResponseEntity.ok(user) : ResponseEntity.notFound().build();
+        }
+        return responseCache.serve(ResponseCache.userKey(id), accept, acceptEncoding, () -> userRepository.findById(id));
     }
 
     /**
@@ -105,7 +184,9 @@ public class UserController {
             Object roleObj = ((Map<?, ?>)user).get("role");
             if (roleObj != null) user.setRole(Role.valueOf(roleObj.toString()));
         }
-        return ResponseEntity.ok(userRepository.save(user));
+        User saved = userRepository.save(user);
+        auditService.record(Action.CREATE, User.class, saved.getId(), authHeader);
+        return ResponseEntity.ok(saved);
     }
 
     /**
@@ -127,7 +208,10 @@ public class UserController {
                    // user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
                     user.setPassword((userDetails.getPassword()));
                     user.setRole(userDetails.getRole());
-                    return ResponseEntity.ok(userRepository.save(user));
+                    User saved = userRepository.save(user);
+                    responseCache.invalidateUser(id, vehicleIds(user));
+                    auditService.record(Action.UPDATE, User.class, id, authHeader);
+                    return ResponseEntity.ok(saved);
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
@@ -146,12 +230,25 @@ public class UserController {
                     if (!isAdmin(authHeader) && !isSelf(authHeader, user.getUsername())) {
                         return ResponseEntity.status(403).body("Not authorized");
                     }
+                    List<Long> vehicleIds = vehicleIds(user);
                     userRepository.deleteById(id);
+                    responseCache.invalidateUser(id, vehicleIds);
+                    auditService.record(Action.DELETE, User.class, id, authHeader);
                     return ResponseEntity.noContent().build();
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    /**
+     * Helper method to collect the IDs of the vehicles owned by a user.
+     *
+     * @param user the user
+     * @return the IDs of the user's vehicles
+     */
+    private List<Long> vehicleIds(User user) {
+        return user.getVehicles() == null ? List.of() : user.getVehicles().stream().map(Vehicle::getId).toList();
+    }
+
     /**
      * Helper method to check if the user is an admin based on the JWT token.
      *
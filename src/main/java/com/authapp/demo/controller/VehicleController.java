@@ -1,19 +1,30 @@
 package com.authapp.demo.controller;
 
+import com.authapp.demo.audit.AuditService;
+import com.authapp.demo.cache.ResponseCache;
+import com.authapp.demo.entity.AuditEvent.Action;
 import com.authapp.demo.repository.VehicleRepository;
 import com.authapp.demo.repository.UserRepository;
 import com.authapp.demo.entity.Vehicle;
 import com.authapp.demo.entity.User;
 import com.authapp.demo.dto.CreateVehicleRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestHeader;
+import com.authapp.demo.util.FieldSelection;
 import com.authapp.demo.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/vehicles")
@@ -24,20 +35,83 @@ public class VehicleController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Value("${api.bulk.max-ids:100}")
+    private int maxBulkIds;
+
     @GetMapping
-    public List<Vehicle> getAllVehicles() {
+    public List<?> getAllVehicles(@RequestParam(required = false) String fields) {
+        Set<String> selected = FieldSelection.parse(fields, FieldSelection.VEHICLE_FIELDS);
+        if (selected != null) {
+            return vehicleRepository.findAllProjected(selected);
+        }
         return vehicleRepository.findAll();
     }
 
     @GetMapping("/user/{userId}")
-    public List<Vehicle> getVehiclesByUser(@PathVariable Long userId) {
-        return vehicleRepository.findByUserId(userId);
+    public ResponseEntity<?> getVehiclesByUser(@PathVariable Long userId, @RequestParam(required = false) String fields,
+                                               @RequestHeader(value = "Accept", required = false) String accept,
+                                               @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
+        Set<String> selected = FieldSelection.parse(fields, FieldSelection.VEHICLE_FIELDS);
+        if (selected != null) {
+            return ResponseEntity.ok(vehicleRepository.findProjectedByUserIdIn(List.of(userId), selected).getOrDefault(userId, List.of()));
+        }
+        return responseCache.serve(ResponseCache.vehiclesByUserKey(userId), accept, acceptEncoding,
+                () -> Optional.of(vehicleRepository.findByUserId(userId)),
+                vehicles -> !((List<?>) vehicles).isEmpty() || userRepository.existsById(userId));
+    }
+
+    /**
+     * Retrieves the vehicles of several users with a single query.
+     * Duplicate and empty IDs are ignored before the limit on the number of IDs is applied.
+     * Every requested user ID gets an entry, an unknown user maps to an empty list just like a user
+     * without vehicles, unlike {@code GET /api/users?ids=}, which leaves unknown IDs out.
+     *
+     * @param userIds the IDs of the owners, e.g. {@code ?userIds=1,2,3}
+     * @param fields optional comma-separated list of fields to return for each vehicle
+     * @return the vehicles keyed by owner ID in request order,
+     *         or 400 if more than the allowed number of IDs is requested
+     */
+    @GetMapping(params = "userIds")
+    public ResponseEntity<?> getVehiclesByUserIds(@RequestParam List<Long> userIds, @RequestParam(required = false) String fields) {
+        Set<String> selected = FieldSelection.parse(fields, FieldSelection.VEHICLE_FIELDS);
+        Set<Long> uniqueIds = new LinkedHashSet<>();
+        userIds.stream().filter(Objects::nonNull).forEach(uniqueIds::add);
+        if (uniqueIds.size() > maxBulkIds) {
+            return ResponseEntity.badRequest().body("At most " + maxBulkIds + " userIds are allowed per request");
+        }
+        // every requested user gets an entry, users without vehicles map to an empty list
+        Map<Long, List<Object>> response = new LinkedHashMap<>();
+        uniqueIds.forEach(userId -> response.put(userId, new ArrayList<>()));
+        if (uniqueIds.isEmpty()) {
+            return ResponseEntity.ok(response);
+        }
+        if (selected != null) {
+            vehicleRepository.findProjectedByUserIdIn(uniqueIds, selected)
+                    .forEach((userId, vehicles) -> response.get(userId).addAll(vehicles));
+        } else {
+            for (Vehicle vehicle : vehicleRepository.findByUserIdIn(uniqueIds)) {
+                response.get(vehicle.getUser().getId()).add(vehicle);
+            }
+        }
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Vehicle> getVehicleById(@PathVariable Long id) {
-        Optional<Vehicle> vehicle = vehicleRepository.findById(id);
-        return vehicle.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+    public ResponseEntity<?> getVehicleById(@PathVariable Long id, @RequestParam(required = false) String fields,
+                                            @RequestHeader(value = "Accept", required = false) String accept,
+                                            @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
+        Set<String> selected = FieldSelection.parse(fields, FieldSelection.VEHICLE_FIELDS);
+        if (selected != null) {
+            Map<String, Object> vehicle = vehicleRepository.findProjectedByIdIn(List.of(id), selected).get(id);
+            return vehicle != null ? ResponseEntity.ok(vehicle) : ResponseEntity.notFound().build();
+        }
+        return responseCache.serve(ResponseCache.vehicleKey(id), accept, acceptEncoding, () -> vehicleRepository.findById(id));
     }
 
     @PostMapping
@@ -53,7 +127,10 @@ public class VehicleController {
         vehicle.setPlate(request.getPlate());
         vehicle.setModel(request.getModel());
         vehicle.setUser(userOpt.get());
-        return ResponseEntity.ok(vehicleRepository.save(vehicle));
+        Vehicle saved = vehicleRepository.save(vehicle);
+        responseCache.invalidateVehicle(saved.getId(), request.getUserId());
+        auditService.record(Action.CREATE, Vehicle.class, saved.getId(), authHeader);
+        return ResponseEntity.ok(saved);
     }
 
     @PutMapping("/{id}")
@@ -67,10 +144,14 @@ public class VehicleController {
         }
         return vehicleRepository.findById(id)
                 .map(vehicle -> {
+                    Long previousOwnerId = vehicle.getUser() != null ? vehicle.getUser().getId() : null;
                     vehicle.setPlate(request.getPlate());
                     vehicle.setModel(request.getModel());
                     vehicle.setUser(userOpt.get());
-                    return ResponseEntity.ok(vehicleRepository.save(vehicle));
+                    Vehicle saved = vehicleRepository.save(vehicle);
+                    responseCache.invalidateVehicle(id, previousOwnerId, request.getUserId());
+                    auditService.record(Action.UPDATE, Vehicle.class, id, authHeader);
+                    return ResponseEntity.ok(saved);
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
@@ -80,8 +161,12 @@ public class VehicleController {
         if (!isAdmin(authHeader)) {
             return ResponseEntity.status(403).body("Admin access required");
         }
-        if (vehicleRepository.existsById(id)) {
+        Optional<Vehicle> vehicle = vehicleRepository.findById(id);
+        if (vehicle.isPresent()) {
+            Long ownerId = vehicle.get().getUser() != null ? vehicle.get().getUser().getId() : null;
             vehicleRepository.deleteById(id);
+            responseCache.invalidateVehicle(id, ownerId);
+            auditService.record(Action.DELETE, Vehicle.class, id, authHeader);
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -0,0 +1,127 @@
+package com.authapp.demo.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Entity representing an audit record of a mutating operation on a user or vehicle.
+ * Rows are written in JDBC batches by {@link com.authapp.demo.audit.AuditEventWriter};
+ * the mapping exists so the table is managed together with the other entities.
+ */
+@Entity
+@Table(name = "audit_event")
+public class AuditEvent {
+    /**
+     * The unique identifier for the audit record.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The operation that was performed.
+     */
+    @Column(name = "action", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Action action;
+
+    /**
+     * The type of the affected entity (e.g. User or Vehicle).
+     */
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    /**
+     * The ID of the affected entity.
+     */
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    /**
+     * The username taken from the caller's token.
+     */
+    @Column(name = "actor", nullable = false)
+    private String actor;
+
+    /**
+     * The time the operation completed.
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    /**
+     * Enum representing audited operations.
+     */
+    public enum Action {
+        /**
+         * The entity was created.
+         */
+        CREATE,
+        /**
+         * The entity was updated.
+         */
+        UPDATE,
+        /**
+         * The entity was deleted.
+         */
+        DELETE
+    }
+
+    /**
+     * Creates an empty audit event, required by JPA.
+     */
+    public AuditEvent() {}
+
+    /**
+     * Creates an audit event for an operation that has just completed.
+     * @param action the operation performed
+     * @param entityType the type of the affected entity
+     * @param entityId the ID of the affected entity
+     * @param actor the username taken from the caller's token
+     * @param occurredAt the time the operation completed
+     */
+    public AuditEvent(Action action, String entityType, Long entityId, String actor, Instant occurredAt) {
+        this.action = action;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.actor = actor;
+        this.occurredAt = occurredAt;
+    }
+
+    // Getters
+    /**
+     * Gets the audit record ID.
+     * @return the audit record ID
+     */
+    public Long getId() { return id; }
+    /**
+     * Gets the operation that was performed.
+     * @return the action
+     */
+    public Action getAction() { return action; }
+    /**
+     * Gets the type of the affected entity.
+     * @return the entity type
+     */
+    public String getEntityType() { return entityType; }
+    /**
+     * Gets the ID of the affected entity.
+     * @return the entity ID
+     */
+    public Long getEntityId() { return entityId; }
+    /**
+     * Gets the username of the caller who performed the operation.
+     * @return the actor
+     */
+    public String getActor() { return actor; }
+    /**
+     * Gets the time the operation completed.
+     * @return the time of the operation
+     */
+    public Instant getOccurredAt() { return occurredAt; }
+
+    @Override
+    public String toString() {
+        return "AuditEvent{" + action + " " + entityType + "#" + entityId + " by " + actor + " at " + occurredAt + "}";
+    }
+}
@@ -0,0 +1,128 @@
+package com.authapp.demo.limit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-side concurrency limiter whose limit follows observed latency (gradient algorithm).
+ * A long-term average of request latency is compared with the average of the most recent window
+ * of requests. While they are equal the limit grows by a small headroom; when recent requests get
+ * slower (e.g. because MySQL is struggling) the limit shrinks in proportion to the slowdown.
+ * Requests over the limit are never queued, the caller is expected to shed them immediately.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    /**
+     * Number of samples averaged into one latency measurement before the limit is updated.
+     */
+    private static final int WINDOW_SIZE = 10;
+    /**
+     * Weight of a new window in the long-term latency average (about 60 windows of history).
+     */
+    private static final double LONG_RTT_WEIGHT = 1.0 / 60;
+    /**
+     * Weight of a newly computed limit against the current one.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    // guarded by this
+    private double longRtt;
+    private long windowRttSum;
+    private int windowCount;
+
+    public AdaptiveConcurrencyLimiter(@Value("${limiter.initial-limit:20}") int initialLimit,
+                                      @Value("${limiter.min-limit:4}") int minLimit,
+                                      @Value("${limiter.max-limit:200}") int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if the number of requests in flight is below the share of the limit
+     * allowed for its priority. Every successful call must be followed by {@link #release(long)}.
+     *
+     * @param priority the priority of the endpoint being called
+     * @return true if the request may proceed, false if it should be shed
+     */
+    public boolean tryAcquire(EndpointPriority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.getShare()));
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases a slot taken by {@link #tryAcquire(EndpointPriority)} and feeds the request's latency into the limit.
+     *
+     * @param rttNanos how long the request took, in nanoseconds
+     */
+    public void release(long rttNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightBeforeRelease);
+    }
+
+    /**
+     * Gets the current concurrency limit.
+     * @return the limit
+     */
+    public int getLimit() { return (int) limit; }
+
+    /**
+     * Gets the number of requests currently admitted.
+     * @return the in-flight count
+     */
+    public int getInFlight() { return inFlight.get(); }
+
+    // package-private so tests can feed latency samples directly
+    synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        windowRttSum += rttNanos;
+        if (++windowCount < WINDOW_SIZE) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowCount;
+        windowRttSum = 0;
+        windowCount = 0;
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+            return;
+        }
+        longRtt = longRtt * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+        // after a long slowdown the average is inflated, let it catch up with the recovered latency
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        // the server is not using the capacity it has, so latency says nothing about a higher limit
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRtt));
+        double headroom = Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + (current * gradient + headroom) * SMOOTHING;
+        next = Math.max(minLimit, Math.min(maxLimit, next));
+        if ((int) next != (int) current) {
+            logger.debug("Concurrency limit {} -> {} (short rtt {} ms, long rtt {} ms)",
+                    (int) current, (int) next, shortRtt / 1_000_000, longRtt / 1_000_000);
+        }
+        limit = next;
+    }
+}
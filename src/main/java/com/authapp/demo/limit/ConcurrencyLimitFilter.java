@@ -0,0 +1,55 @@
+package com.authapp.demo.limit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+/**
+ * Servlet filter applying the {@link AdaptiveConcurrencyLimiter} to API requests.
+ * Requests that do not fit under the limit for their {@link EndpointPriority} are rejected
+ * immediately with 503 and a Retry-After header instead of waiting for a Tomcat thread.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Value("${limiter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${limiter.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        EndpointPriority priority = EndpointPriority.classify(request.getMethod(), path);
+        if (!enabled || priority == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire(priority)) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Server is overloaded, retry later");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+}
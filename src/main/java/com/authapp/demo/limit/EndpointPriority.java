@@ -0,0 +1,62 @@
+package com.authapp.demo.limit;
+
+import java.util.regex.Pattern;
+
+/**
+ * Priority classes of API endpoints used for load shedding, from most to least important.
+ * Each class may only occupy its share of the current concurrency limit, so when the limit
+ * shrinks the least important work is rejected first and the remaining capacity stays
+ * available for the classes above it.
+ */
+public enum EndpointPriority {
+    /**
+     * Login, always admitted while there is any capacity left.
+     */
+    AUTH(1.0),
+    /**
+     * Reads of a single user or vehicle.
+     */
+    SINGLE_READ(0.9),
+    /**
+     * Reads returning lists of users or vehicles.
+     */
+    LIST(0.7),
+    /**
+     * Creates, updates and deletes.
+     */
+    ADMIN_WRITE(0.5);
+
+    private static final Pattern SINGLE_ENTITY_PATH = Pattern.compile("^/api/(users|vehicles)/\\d+$");
+
+    private final double share;
+
+    EndpointPriority(double share) {
+        this.share = share;
+    }
+
+    /**
+     * Gets the fraction of the concurrency limit this class may occupy.
+     * @return the share, between 0 and 1
+     */
+    public double getShare() { return share; }
+
+    /**
+     * Classifies a request by its HTTP method and path.
+     *
+     * @param method the HTTP method
+     * @param path the request path without the context path
+     * @return the priority of the endpoint, or null if the path is not limited (e.g. actuator)
+     */
+    public static EndpointPriority classify(String method, String path) {
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        if ("POST".equals(method) && path.equals("/api/users/login")) {
+            return AUTH;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return SINGLE_ENTITY_PATH.matcher(path).matches() ? SINGLE_READ : LIST;
+        }
+        return ADMIN_WRITE;
+    }
+}
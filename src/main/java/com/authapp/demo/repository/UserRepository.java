@@ -1,14 +1,17 @@
 package com.authapp.demo.repository;
 
 import com.authapp.demo.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for accessing User entities from the database.
  * Extends JpaRepository to provide CRUD operations and custom queries for User.
  */
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     /**
      * Finds a user by their username.
      *
@@ -16,4 +19,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return an Optional containing the user if found, or empty if not found
      */
     Optional<User> findByUsername(String username);
-} 
\ No newline at end of file
+
+    /**
+     * Finds all users whose ID is in the given collection with a single IN-list query.
+     * Vehicles are fetched in the same query so serializing the result does not
+     * trigger one extra query per user.
+     *
+     * @param ids the IDs of the users
+     * @return the users found, in no particular order
+     */
+    @EntityGraph(attributePaths = "vehicles")
+    List<User> findByIdIn(Collection<Long> ids);
+}
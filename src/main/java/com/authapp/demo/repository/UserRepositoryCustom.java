@@ -0,0 +1,29 @@
+package com.authapp.demo.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Custom queries for User entities that select only the requested fields (sparse fieldsets).
+ * Results are maps holding exactly the requested fields, so no entity or lazy association is loaded.
+ */
+public interface UserRepositoryCustom {
+    /**
+     * Finds all users, selecting only the given fields.
+     *
+     * @param fields the fields to select, see {@link com.authapp.demo.util.FieldSelection#USER_FIELDS}
+     * @return one map per user holding the requested fields
+     */
+    List<Map<String, Object>> findAllProjected(Set<String> fields);
+
+    /**
+     * Finds the users whose ID is in the given collection, selecting only the given fields.
+     *
+     * @param ids the IDs of the users
+     * @param fields the fields to select, see {@link com.authapp.demo.util.FieldSelection#USER_FIELDS}
+     * @return the requested fields of each user found, keyed by user ID
+     */
+    Map<Long, Map<String, Object>> findProjectedByIdIn(Collection<Long> ids, Set<String> fields);
+}
@@ -0,0 +1,111 @@
+package com.authapp.demo.repository;
+
+import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Criteria API implementation of {@link UserRepositoryCustom}.
+ * Only the columns of the requested fields are selected. When "vehicles" is requested, the plate and model
+ * of all matching users' vehicles are read with one extra query, matching
+ * {@link com.authapp.demo.util.VehicleSummarySerializer}, instead of initializing each user's collection.
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    private static final String USER_KEY = "userKey";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllProjected(Set<String> fields) {
+        List<Tuple> tuples = select(fields, null);
+        Map<Long, List<Map<String, Object>>> vehicles = fields.contains("vehicles") ? selectVehicles(null) : Map.of();
+        return tuples.stream().map(tuple -> toMap(tuple, fields, vehicles)).toList();
+    }
+
+    @Override
+    public Map<Long, Map<String, Object>> findProjectedByIdIn(Collection<Long> ids, Set<String> fields) {
+        Map<Long, Map<String, Object>> result = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        List<Tuple> tuples = select(fields, user -> user.get("id").in(ids));
+        Map<Long, List<Map<String, Object>>> vehicles = fields.contains("vehicles") ? selectVehicles(ids) : Map.of();
+        for (Tuple tuple : tuples) {
+            result.put(tuple.get(USER_KEY, Long.class), toMap(tuple, fields, vehicles));
+        }
+        return result;
+    }
+
+    /**
+     * Runs a tuple query selecting the requested scalar fields plus the user ID used as key.
+     * A null {@code where} selects all users.
+     */
+    private List<Tuple> select(Set<String> fields, Function<Root<User>, Predicate> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> user = query.from(User.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(user.get("id").alias(USER_KEY));
+        for (String field : fields) {
+            if (!field.equals("id") && !field.equals("vehicles")) {
+                selections.add(user.get(field).alias(field));
+            }
+        }
+        query.multiselect(selections);
+        if (where != null) {
+            query.where(where.apply(user));
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Reads the plate and model of the vehicles owned by the given users (or by everyone), grouped by owner ID.
+     */
+    private Map<Long, List<Map<String, Object>>> selectVehicles(Collection<Long> userIds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Vehicle> vehicle = query.from(Vehicle.class);
+        Path<Object> owner = vehicle.get("user").get("id");
+        query.multiselect(owner.alias("owner"), vehicle.get("plate").alias("plate"), vehicle.get("model").alias("model"));
+        if (userIds != null) {
+            query.where(owner.in(userIds));
+        }
+        Map<Long, List<Map<String, Object>>> result = new LinkedHashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("plate", tuple.get("plate"));
+            summary.put("model", tuple.get("model"));
+            result.computeIfAbsent(tuple.get("owner", Long.class), id -> new ArrayList<>()).add(summary);
+        }
+        return result;
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, Set<String> fields, Map<Long, List<Map<String, Object>>> vehicles) {
+        Long id = tuple.get(USER_KEY, Long.class);
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "id" -> row.put("id", id);
+                case "vehicles" -> row.put("vehicles", vehicles.getOrDefault(id, List.of()));
+                default -> row.put(field, tuple.get(field));
+            }
+        }
+        return row;
+    }
+}
@@ -1,14 +1,16 @@
 package com.authapp.demo.repository;
 
 import com.authapp.demo.entity.Vehicle;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for accessing Vehicle entities from the database.
  * Extends JpaRepository to provide CRUD operations and custom queries for Vehicle.
  */
-public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+public interface VehicleRepository extends JpaRepository<Vehicle, Long>, VehicleRepositoryCustom {
     /**
      * Finds all vehicles belonging to a specific user by user ID.
      *
@@ -16,4 +18,15 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
      * @return a list of vehicles owned by the user
      */
     List<Vehicle> findByUserId(Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * Finds all vehicles belonging to any of the given users with a single IN-list query.
+     * The owning user is fetched in the same query so its summary can be serialized
+     * without lazy loading.
+     *
+     * @param userIds the IDs of the users
+     * @return the vehicles owned by those users, in no particular order
+     */
+    @EntityGraph(attributePaths = "user")
+    List<Vehicle> findByUserIdIn(Collection<Long> userIds);
+}
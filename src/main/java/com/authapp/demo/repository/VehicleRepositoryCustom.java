@@ -0,0 +1,38 @@
+package com.authapp.demo.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Custom queries for Vehicle entities that select only the requested fields (sparse fieldsets).
+ * Results are maps holding exactly the requested fields, so no entity or lazy association is loaded.
+ */
+public interface VehicleRepositoryCustom {
+    /**
+     * Finds all vehicles, selecting only the given fields.
+     *
+     * @param fields the fields to select, see {@link com.authapp.demo.util.FieldSelection#VEHICLE_FIELDS}
+     * @return one map per vehicle holding the requested fields
+     */
+    List<Map<String, Object>> findAllProjected(Set<String> fields);
+
+    /**
+     * Finds the vehicles whose ID is in the given collection, selecting only the given fields.
+     *
+     * @param ids the IDs of the vehicles
+     * @param fields the fields to select, see {@link com.authapp.demo.util.FieldSelection#VEHICLE_FIELDS}
+     * @return the requested fields of each vehicle found, keyed by vehicle ID
+     */
+    Map<Long, Map<String, Object>> findProjectedByIdIn(Collection<Long> ids, Set<String> fields);
+
+    /**
+     * Finds the vehicles owned by any of the given users, selecting only the given fields.
+     *
+     * @param userIds the IDs of the users
+     * @param fields the fields to select, see {@link com.authapp.demo.util.FieldSelection#VEHICLE_FIELDS}
+     * @return the requested fields of each vehicle, grouped by owner ID (users without vehicles are absent)
+     */
+    Map<Long, List<Map<String, Object>>> findProjectedByUserIdIn(Collection<Long> userIds, Set<String> fields);
+}
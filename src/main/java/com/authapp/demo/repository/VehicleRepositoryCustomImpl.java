@@ -0,0 +1,115 @@
+package com.authapp.demo.repository;
+
+import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Criteria API implementation of {@link VehicleRepositoryCustom}.
+ * Only the columns of the requested fields are selected; the owner is joined only when "user" is requested,
+ * and then only its id and username are read, matching {@link com.authapp.demo.util.UserSummarySerializer}.
+ */
+public class VehicleRepositoryCustomImpl implements VehicleRepositoryCustom {
+    private static final String VEHICLE_KEY = "vehicleKey";
+    private static final String OWNER_KEY = "ownerKey";
+    private static final String OWNER_USERNAME = "ownerUsername";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllProjected(Set<String> fields) {
+        return select(fields, null).stream().map(tuple -> toMap(tuple, fields)).toList();
+    }
+
+    @Override
+    public Map<Long, Map<String, Object>> findProjectedByIdIn(Collection<Long> ids, Set<String> fields) {
+        Map<Long, Map<String, Object>> result = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        for (Tuple tuple : select(fields, vehicle -> vehicle.get("id").in(ids))) {
+            result.put(tuple.get(VEHICLE_KEY, Long.class), toMap(tuple, fields));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Long, List<Map<String, Object>>> findProjectedByUserIdIn(Collection<Long> userIds, Set<String> fields) {
+        Map<Long, List<Map<String, Object>>> result = new LinkedHashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+        for (Tuple tuple : select(fields, vehicle -> vehicle.get("user").get("id").in(userIds))) {
+            result.computeIfAbsent(tuple.get(OWNER_KEY, Long.class), id -> new ArrayList<>()).add(toMap(tuple, fields));
+        }
+        return result;
+    }
+
+    /**
+     * Runs a tuple query selecting the requested fields plus the vehicle and owner IDs used as keys.
+     * The owner ID is read from the foreign key column, so it does not need a join.
+     * A null {@code where} selects all vehicles.
+     */
+    private List<Tuple> select(Set<String> fields, Function<Root<Vehicle>, Predicate> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Vehicle> vehicle = query.from(Vehicle.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(vehicle.get("id").alias(VEHICLE_KEY));
+        selections.add(vehicle.get("user").get("id").alias(OWNER_KEY));
+        for (String field : fields) {
+            switch (field) {
+                case "id" -> { }
+                case "user" -> {
+                    Join<Vehicle, User> owner = vehicle.join("user", JoinType.LEFT);
+                    selections.add(owner.get("username").alias(OWNER_USERNAME));
+                }
+                default -> selections.add(vehicle.get(field).alias(field));
+            }
+        }
+        query.multiselect(selections);
+        if (where != null) {
+            query.where(where.apply(vehicle));
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, Set<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "id" -> row.put("id", tuple.get(VEHICLE_KEY));
+                case "user" -> {
+                    Object ownerId = tuple.get(OWNER_KEY);
+                    if (ownerId == null) {
+                        row.put("user", null);
+                    } else {
+                        Map<String, Object> owner = new LinkedHashMap<>();
+                        owner.put("id", ownerId);
+                        owner.put("username", tuple.get(OWNER_USERNAME));
+                        row.put("user", owner);
+                    }
+                }
+                default -> row.put(field, tuple.get(field));
+            }
+        }
+        return row;
+    }
+}
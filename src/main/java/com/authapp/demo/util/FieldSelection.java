@@ -0,0 +1,43 @@
+package com.authapp.demo.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Utility class for parsing the {@code fields} query parameter of sparse fieldset requests,
+ * e.g. {@code GET /api/vehicles?fields=id,plate}.
+ */
+public class FieldSelection {
+    /**
+     * Fields that may be requested for a user, matching the properties of its full JSON form.
+     */
+    public static final Set<String> USER_FIELDS = Set.of("id", "username", "password", "role", "vehicles");
+    /**
+     * Fields that may be requested for a vehicle, matching the properties of its full JSON form.
+     */
+    public static final Set<String> VEHICLE_FIELDS = Set.of("id", "plate", "model", "user");
+
+    /**
+     * Parses a comma-separated list of field names.
+     *
+     * @param fields the raw parameter value, may be null
+     * @param allowed the field names that may be requested
+     * @return the requested fields in request order, or null if no fields were requested (full entities)
+     * @throws UnknownFieldException if a requested field is not allowed
+     */
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) continue;
+            if (!allowed.contains(name)) {
+                throw new UnknownFieldException(name);
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+}
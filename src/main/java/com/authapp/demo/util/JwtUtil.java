@@ -25,6 +25,10 @@ public class JwtUtil {
      * Special token value for admin access (for testing or legacy purposes).
      */
     public static final String ADMIN_TOKEN = "admin-token";
+    /**
+     * Actor name recorded for requests made with the admin token, so the token itself never reaches the audit trail.
+     */
+    public static final String ADMIN_ACTOR = "admin";
 
     /**
      * Generates a JWT token for the given user.
@@ -117,6 +121,25 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Extracts the name of the caller from the Authorization header, for auditing.
+     *
+     * @param authHeader the Authorization header containing the JWT token
+     * @return the token's subject, {@link #ADMIN_ACTOR} for the admin token, or "anonymous" if no valid token is present
+     */
+    public static String extractActor(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) return "anonymous";
+        String token = authHeader.substring(7);
+        if (token.equals(ADMIN_TOKEN)) {
+            return ADMIN_ACTOR;
+        }
+        try {
+            return extractUsername(token);
+        } catch (Exception e) {
+            return "anonymous";
+        }
+    }
+
     /**
      * Checks if the user associated with the JWT token matches the given username.
      *
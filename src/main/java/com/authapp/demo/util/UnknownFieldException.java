@@ -0,0 +1,10 @@
+package com.authapp.demo.util;
+
+/**
+ * Thrown when a sparse fieldset request names a field the resource does not have.
+ */
+public class UnknownFieldException extends RuntimeException {
+    public UnknownFieldException(String field) {
+        super("Unknown field: " + field);
+    }
+}
@@ -2,6 +2,7 @@ package com.authapp.demo.util;
 
 import com.authapp.demo.entity.User;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
@@ -12,7 +13,13 @@ import java.io.IOException;
  */
 public class UserSummarySerializer extends JsonSerializer<User> {
     /**
-     * Serializes a Vehicle object to JSON, including only the plate and model fields.
+     * Field names encoded once, so the generator copies the bytes instead of escaping the strings on every call.
+     */
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString USERNAME = new SerializedString("username");
+
+    /**
+     * Serializes a User object to JSON, including only the id and username fields.
      *
      * @param user the User object to serialize
      * @param gen the JSON generator
@@ -22,8 +29,10 @@ public class UserSummarySerializer extends JsonSerializer<User> {
     @Override
     public void serialize(User user, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         gen.writeStartObject();
-        gen.writeNumberField("id", user.getId());
-        gen.writeStringField("username", user.getUsername());
+        gen.writeFieldName(ID);
+        gen.writeNumber(user.getId());
+        gen.writeFieldName(USERNAME);
+        gen.writeString(user.getUsername());
         gen.writeEndObject();
     }
 } 
\ No newline at end of file
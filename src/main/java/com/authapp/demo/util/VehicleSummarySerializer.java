@@ -3,6 +3,7 @@ package com.authapp.demo.util;
 import com.authapp.demo.entity.Vehicle;
 import com.authapp.demo.entity.User;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
@@ -12,6 +13,12 @@ import java.io.IOException;
  * Serializes only the plate and model fields of a Vehicle for summary views.
  */
 public class VehicleSummarySerializer extends JsonSerializer<Vehicle> {
+    /**
+     * Pre-encoded field names, as in {@link UserSummarySerializer}.
+     */
+    private static final SerializedString PLATE = new SerializedString("plate");
+    private static final SerializedString MODEL = new SerializedString("model");
+
     /**
      * Serializes a Vehicle object to JSON, including only the plate and model fields.
      *
@@ -23,8 +30,10 @@ public class VehicleSummarySerializer extends JsonSerializer<Vehicle> {
     @Override
     public void serialize(Vehicle vehicle, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         gen.writeStartObject();
-        gen.writeStringField("plate", vehicle.getPlate());
-        gen.writeStringField("model", vehicle.getModel());
+        gen.writeFieldName(PLATE);
+        gen.writeString(vehicle.getPlate());
+        gen.writeFieldName(MODEL);
+        gen.writeString(vehicle.getModel());
         gen.writeEndObject();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.authapp.demo.warmup;
+
+import com.authapp.demo.controller.UserController;
+import com.authapp.demo.controller.VehicleController;
+import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
+import com.authapp.demo.repository.UserRepository;
+import com.authapp.demo.repository.VehicleRepository;
+import com.authapp.demo.util.FieldSelection;
+import com.authapp.demo.util.JwtUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Exercises the hot request paths synthetically at startup so they are JIT-compiled before real traffic arrives:
+ * JWT signing and verification, Jackson serialization of User/Vehicle graphs (JSON and CBOR), the repository
+ * queries, and the controller calls through the LoggingAspect advice chain.
+ * Spring Boot only reports readiness (ACCEPTING_TRAFFIC, /actuator/health/readiness UP) after all application
+ * runners have returned, so the pod receives no traffic until warm-up has finished or its time budget is spent.
+ * Only read queries with IDs that cannot exist are issued, so warm-up never changes data.
+ */
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+    private static final Long MISSING_ID = -1L;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserController userController;
+
+    @Autowired
+    private VehicleController vehicleController;
+
+    @Value("${warmup.iterations:2000}")
+    private int iterations;
+
+    @Value("${warmup.query-iterations:50}")
+    private int queryIterations;
+
+    @Value("${warmup.controller-iterations:5}")
+    private int controllerIterations;
+
+    @Value("${warmup.time-budget-ms:30000}")
+    private long timeBudgetMs;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<?> warmup = executor.submit(this::warmUp);
+        try {
+            warmup.get(timeBudgetMs, TimeUnit.MILLISECONDS);
+            logger.info("Warm-up finished in {} ms", System.currentTimeMillis() - start);
+        } catch (TimeoutException e) {
+            warmup.cancel(true);
+            logger.warn("Warm-up stopped after its time budget of {} ms", timeBudgetMs);
+        } catch (ExecutionException e) {
+            logger.warn("Warm-up failed after {} ms, continuing startup", System.currentTimeMillis() - start, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void warmUp() {
+        warmUpJwt();
+        warmUpSerialization();
+        warmUpQueries();
+        warmUpControllers();
+    }
+
+    private void warmUpJwt() {
+        User user = sampleUsers(1, 0).get(0);
+        for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+            String authHeader = "Bearer " + JwtUtil.generateToken(user);
+            JwtUtil.isAdmin(authHeader);
+            JwtUtil.isSelf(authHeader, user.getUsername());
+            JwtUtil.extractActor(authHeader);
+        }
+    }
+
+    private void warmUpSerialization() {
+        List<User> users = sampleUsers(50, 4);
+        List<Vehicle> vehicles = users.stream().flatMap(user -> user.getVehicles().stream()).toList();
+        ObjectMapper cbor = cborConverter.getObjectMapper();
+        try {
+            for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+                for (ObjectMapper mapper : List.of(objectMapper, cbor)) {
+                    mapper.readValue(mapper.writeValueAsBytes(users), new TypeReference<List<User>>() {});
+                    mapper.readValue(mapper.writeValueAsBytes(vehicles), new TypeReference<List<Vehicle>>() {});
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Serialization warm-up failed", e);
+        }
+    }
+
+    private void warmUpQueries() {
+        List<Long> missing = List.of(MISSING_ID);
+        for (int i = 0; i < queryIterations && !Thread.currentThread().isInterrupted(); i++) {
+            userRepository.findById(MISSING_ID);
+            userRepository.findByUsername("");
+            userRepository.findByIdIn(missing);
+            userRepository.findProjectedByIdIn(missing, FieldSelection.USER_FIELDS);
+            vehicleRepository.findById(MISSING_ID);
+            vehicleRepository.findByUserId(MISSING_ID);
+            vehicleRepository.findByUserIdIn(missing);
+            vehicleRepository.findProjectedByIdIn(missing, FieldSelection.VEHICLE_FIELDS);
+            vehicleRepository.findProjectedByUserIdIn(missing, FieldSelection.VEHICLE_FIELDS);
+        }
+    }
+
+    // goes through the controller proxies so the LoggingAspect advice is exercised as well; every call
+    // is logged by the aspect, so only a few rounds are made and they are bracketed by marker lines
+    private void warmUpControllers() {
+        logger.info("Warm-up controller calls starting, the following LoggingAspect lines are synthetic");
+        for (int i = 0; i < controllerIterations && !Thread.currentThread().isInterrupted(); i++) {
+            userController.login(Map.of("username", "", "password", ""));
+            userController.getUserById(MISSING_ID, null, null, null);
+            userController.getUsersByIds(List.of(MISSING_ID), null);
+            vehicleController.getVehicleById(MISSING_ID, null, null, null);
+            vehicleController.getVehiclesByUserIds(List.of(MISSING_ID), null);
+        }
+        logger.info("Warm-up controller calls finished");
+    }
+
+    private List<User> sampleUsers(int count, int vehiclesPerUser) {
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setUsername("warmup" + id);
+            user.setPassword("warmup");
+            user.setRole(User.Role.USER);
+            List<Vehicle> vehicles = new ArrayList<>();
+            for (long v = 1; v <= vehiclesPerUser; v++) {
+                Vehicle vehicle = new Vehicle();
+                vehicle.setId(id * 100 + v);
+                vehicle.setPlate("WRM-" + id + v);
+                vehicle.setModel("Warmup");
+                vehicle.setUser(user);
+                vehicles.add(vehicle);
+            }
+            user.setVehicles(vehicles);
+            users.add(user);
+        }
+        return users;
+    }
+}
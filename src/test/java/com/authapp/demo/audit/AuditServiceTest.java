@@ -0,0 +1,154 @@
+package com.authapp.demo.audit;
+
+import com.authapp.demo.audit.AuditService.OverflowPolicy;
+import com.authapp.demo.entity.AuditEvent;
+import com.authapp.demo.entity.AuditEvent.Action;
+import com.authapp.demo.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditServiceTest {
+    private static final long NEVER_MS = 3_600_000;
+
+    private final RecordingWriter writer = new RecordingWriter();
+    private AuditService service;
+
+    @AfterEach
+    void stopService() {
+        if (service != null && service.isRunning()) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void dropsEventsBeyondCapacityAndCountsThem() {
+        service = newService(2, 100, NEVER_MS, OverflowPolicy.DROP);
+        service.start();
+
+        record(3);
+
+        assertEquals(2, service.getPendingCount());
+        assertEquals(1, service.getDroppedCount());
+        assertEquals(0, writer.eventCount());
+    }
+
+    @Test
+    void blockGivesUpAfterOfferTimeout() {
+        service = newService(1, 100, NEVER_MS, OverflowPolicy.BLOCK);
+        ReflectionTestUtils.setField(service, "offerTimeoutMs", 50L);
+        service.start();
+        record(1);
+
+        long start = System.nanoTime();
+        record(1);
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(waitedMs >= 50, "should wait for the offer timeout, waited " + waitedMs + " ms");
+        assertEquals(1, service.getDroppedCount());
+        assertEquals(1, service.getPendingCount());
+    }
+
+    @Test
+    void callerRunsWritesOnTheCallingThread() {
+        service = newService(1, 100, NEVER_MS, OverflowPolicy.CALLER_RUNS);
+        service.start();
+        record(1);
+
+        record(1);
+
+        assertEquals(1, writer.eventCount());
+        assertEquals(List.of(Thread.currentThread().getName()), writer.threads);
+        assertEquals(0, service.getDroppedCount());
+        assertEquals(1, service.getPendingCount());
+    }
+
+    @Test
+    void flushesWhenBatchIsFull() {
+        service = newService(100, 3, NEVER_MS, OverflowPolicy.DROP);
+        service.start();
+
+        record(3);
+
+        awaitTrue(() -> writer.eventCount() == 3);
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    void flushesWhenIntervalElapses() {
+        service = newService(100, 100, 50, OverflowPolicy.DROP);
+        service.start();
+
+        record(1);
+
+        awaitTrue(() -> writer.eventCount() == 1);
+    }
+
+    @Test
+    void stopFlushesEverythingPending() {
+        service = newService(1000, 100, NEVER_MS, OverflowPolicy.DROP);
+        service.start();
+        record(250);
+
+        service.stop();
+
+        assertEquals(250, writer.eventCount());
+        assertTrue(writer.batchSizes().stream().allMatch(size -> size <= 100));
+        assertEquals(0, service.getPendingCount());
+    }
+
+    private AuditService newService(int capacity, int batchSize, long flushIntervalMs, OverflowPolicy policy) {
+        AuditService auditService = new AuditService();
+        ReflectionTestUtils.setField(auditService, "writer", writer);
+        ReflectionTestUtils.setField(auditService, "capacity", capacity);
+        ReflectionTestUtils.setField(auditService, "batchSize", batchSize);
+        ReflectionTestUtils.setField(auditService, "flushIntervalMs", flushIntervalMs);
+        ReflectionTestUtils.setField(auditService, "overflowPolicy", policy);
+        ReflectionTestUtils.setField(auditService, "offerTimeoutMs", 0L);
+        ReflectionTestUtils.setField(auditService, "shutdownTimeoutMs", 5_000L);
+        return auditService;
+    }
+
+    private void record(int count) {
+        for (int i = 0; i < count; i++) {
+            service.record(Action.CREATE, User.class, (long) i, null);
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met within 5 s");
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Writer that keeps the batches it is given instead of going to the database.
+     */
+    private static class RecordingWriter extends AuditEventWriter {
+        final List<List<AuditEvent>> batches = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void write(List<AuditEvent> events) {
+            batches.add(List.copyOf(events));
+            threads.add(Thread.currentThread().getName());
+        }
+
+        int eventCount() {
+            return batches.stream().mapToInt(List::size).sum();
+        }
+
+        List<Integer> batchSizes() {
+            return batches.stream().map(List::size).toList();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.authapp.demo.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheTest {
+    private final ResponseCache cache = new ResponseCache();
+    // number of times each key was loaded
+    private final Map<String, Integer> loads = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "cborConverter", new MappingJackson2CborHttpMessageConverter());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxBytes", 1L << 20);
+        ReflectionTestUtils.setField(cache, "gzip", true);
+        ReflectionTestUtils.setField(cache, "gzipMinBytes", 2048);
+        ReflectionTestUtils.setField(cache, "ttlMs", 0L);
+    }
+
+    @Test
+    void hitDoesNotLoadAgain() {
+        serve(ResponseCache.userKey(1L));
+        serve(ResponseCache.userKey(1L));
+
+        assertEquals(1, loads(ResponseCache.userKey(1L)));
+    }
+
+    @Test
+    void missingResourceIsNotFound() {
+        ResponseEntity<byte[]> response = cache.serve(ResponseCache.userKey(1L), null, null, Optional::empty);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void responseLoadedWhileWriteHappenedIsNotStored() {
+        String key = ResponseCache.userKey(1L);
+        cache.serve(key, null, null, () -> {
+            // another request updates the user after this one has read it
+            cache.invalidateUser(1L, List.of());
+            return load(key);
+        });
+
+        serve(key);
+
+        assertEquals(2, loads(key));
+    }
+
+    @Test
+    void rejectedResponseIsServedButNotStored() {
+        String key = ResponseCache.vehiclesByUserKey(9L);
+        ResponseEntity<byte[]> response = cache.serve(key, null, null, () -> Optional.of(List.of()), body -> false);
+
+        assertEquals("[]", new String(response.getBody()));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void invalidateVehicleRemovesOldAndNewOwner() {
+        List<String> keys = List.of(ResponseCache.vehicleKey(7L),
+                ResponseCache.userKey(1L), ResponseCache.vehiclesByUserKey(1L),
+                ResponseCache.userKey(2L), ResponseCache.vehiclesByUserKey(2L));
+        String unrelated = ResponseCache.userKey(3L);
+        keys.forEach(this::serve);
+        serve(unrelated);
+
+        cache.invalidateVehicle(7L, 1L, 2L);
+        keys.forEach(this::serve);
+        serve(unrelated);
+
+        keys.forEach(key -> assertEquals(2, loads(key), key));
+        assertEquals(1, loads(unrelated));
+    }
+
+    @Test
+    void invalidateVehicleSkipsMissingOwner() {
+        serve(ResponseCache.vehicleKey(7L));
+
+        cache.invalidateVehicle(7L, (Long) null);
+        serve(ResponseCache.vehicleKey(7L));
+
+        assertEquals(2, loads(ResponseCache.vehicleKey(7L)));
+    }
+
+    @Test
+    void invalidateUserRemovesUserVehicleListAndVehicles() {
+        List<String> keys = List.of(ResponseCache.userKey(1L), ResponseCache.vehiclesByUserKey(1L),
+                ResponseCache.vehicleKey(7L), ResponseCache.vehicleKey(8L));
+        String unrelated = ResponseCache.vehicleKey(9L);
+        keys.forEach(this::serve);
+        serve(unrelated);
+
+        // e.g. a username change or delete, both owned vehicles embed the username
+        cache.invalidateUser(1L, List.of(7L, 8L));
+        keys.forEach(this::serve);
+        serve(unrelated);
+
+        keys.forEach(key -> assertEquals(2, loads(key), key));
+        assertEquals(1, loads(unrelated));
+    }
+
+    @Test
+    void invalidationRemovesEveryFormat() {
+        String key = ResponseCache.userKey(1L);
+        serve(key);
+        cache.serve(key, "application/cbor", null, () -> load(key));
+        assertEquals(2, loads(key));
+
+        cache.invalidateUser(1L, List.of());
+
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void evictsEntriesWithoutRecentHitsFirst() {
+        String a = ResponseCache.userKey(1L);
+        String b = ResponseCache.userKey(2L);
+        String c = ResponseCache.userKey(3L);
+        serve(a);
+        long entrySize = cache.getSize();
+        // room for two entries of this size, not three
+        ReflectionTestUtils.setField(cache, "maxBytes", entrySize * 5 / 2);
+        serve(b);
+        serve(a);
+
+        serve(c);
+
+        serve(a);
+        serve(c);
+        assertEquals(1, loads(a));
+        assertEquals(1, loads(c));
+        serve(b);
+        assertEquals(2, loads(b));
+        assertTrue(cache.getSize() <= entrySize * 5 / 2);
+    }
+
+    @Test
+    void invalidatedEntriesDoNotPileUpInEvictionClock() {
+        for (long id = 0; id < 1000; id++) {
+            serve(ResponseCache.userKey(id));
+            cache.invalidateUser(id, List.of());
+        }
+
+        assertEquals(0, cache.getSize());
+        Collection<?> clock = (Collection<?>) ReflectionTestUtils.getField(cache, "clock");
+        assertTrue(clock.size() <= 2 + 64 + 1, "clock holds " + clock.size() + " entries");
+    }
+
+    @Test
+    void sizeIncludesPerEntryOverhead() {
+        String key = ResponseCache.userKey(1L);
+        ResponseEntity<byte[]> response = serve(key);
+
+        long expected = ResponseCache.ENTRY_OVERHEAD + (key + ";json").length() + response.getBody().length;
+        assertEquals(expected, cache.getSize());
+    }
+
+    @Test
+    void entryExpiresAfterTtl() throws InterruptedException {
+        ReflectionTestUtils.setField(cache, "ttlMs", 1L);
+        String key = ResponseCache.userKey(1L);
+        serve(key);
+
+        Thread.sleep(5);
+        serve(key);
+
+        assertEquals(2, loads(key));
+    }
+
+    @Test
+    void variesOnAcceptWithoutGzipVariant() {
+        ResponseEntity<byte[]> response = cache.serve(ResponseCache.userKey(1L), null, "gzip", () -> Optional.of("small"));
+
+        assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders().getVary());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void variesOnAcceptAndEncodingWithGzipVariant() {
+        ResponseEntity<byte[]> response = cache.serve(ResponseCache.userKey(1L), null, "gzip", () -> Optional.of(large()));
+
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void gzipRefusedWithZeroQuality() {
+        ResponseEntity<byte[]> response = cache.serve(ResponseCache.userKey(1L), null, "gzip;q=0, deflate",
+                () -> Optional.of(large()));
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+    }
+
+    @Test
+    void acceptsGzipHonoursQuality() {
+        assertTrue(ResponseCache.acceptsGzip("gzip"));
+        assertTrue(ResponseCache.acceptsGzip("deflate, gzip;q=0.5"));
+        assertTrue(ResponseCache.acceptsGzip("br, *"));
+        assertFalse(ResponseCache.acceptsGzip(null));
+        assertFalse(ResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseCache.acceptsGzip("gzip; q=0.0, *"));
+        assertFalse(ResponseCache.acceptsGzip("*;q=0"));
+        assertFalse(ResponseCache.acceptsGzip("deflate, br"));
+    }
+
+    @Test
+    void negotiatesCborOnlyWhenAccepted() {
+        assertEquals(MediaType.APPLICATION_CBOR, contentType("application/cbor"));
+        assertEquals(MediaType.APPLICATION_CBOR, contentType("application/json;q=0.5, application/cbor"));
+        assertEquals(MediaType.APPLICATION_JSON, contentType("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, contentType("application/cbor;q=0, */*"));
+        assertEquals(MediaType.APPLICATION_CBOR, contentType("application/json;q=0, application/cbor;q=0.1"));
+        assertEquals(MediaType.APPLICATION_JSON, contentType("not a media type"));
+    }
+
+    private MediaType contentType(String accept) {
+        return cache.serve(ResponseCache.userKey(1L), accept, null, () -> Optional.of("body")).getHeaders().getContentType();
+    }
+
+    // a body above the gzip threshold, so a gzip variant is stored
+    private static String large() {
+        return "x".repeat(4096);
+    }
+
+    private ResponseEntity<byte[]> serve(String key) {
+        return cache.serve(key, null, null, () -> load(key));
+    }
+
+    private Optional<?> load(String key) {
+        loads.merge(key, 1, Integer::sum);
+        return Optional.of(Map.of("key", key));
+    }
+
+    private int loads(String key) {
+        return loads.getOrDefault(key, 0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.authapp.demo.controller;
+
+import com.authapp.demo.audit.AuditService;
+import com.authapp.demo.cache.ResponseCache;
+import com.authapp.demo.entity.User;
+import com.authapp.demo.limit.AdaptiveConcurrencyLimiter;
+import com.authapp.demo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserController.class, properties = "api.bulk.max-ids=3")
+@Import(AdaptiveConcurrencyLimiter.class)
+class UserControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private AuditService auditService;
+
+    @MockitoBean
+    private ResponseCache responseCache;
+
+    @Test
+    void bulkLookupRejectsMoreIdsThanAllowed() throws Exception {
+        mockMvc.perform(get("/api/users").param("ids", "1,2,3,4"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("At most 3 ids are allowed per request"));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void bulkLookupAppliesLimitAfterRemovingDuplicatesAndEmptyIds() throws Exception {
+        when(userRepository.findByIdIn(anyCollection())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/users").param("ids", "3,1,,3,2,1"))
+                .andExpect(status().isOk());
+
+        assertEquals(List.of(3L, 1L, 2L), requestedIds());
+    }
+
+    @Test
+    void bulkLookupFollowsRequestOrderAndOmitsUnknownIds() throws Exception {
+        // the database returns rows in its own order
+        when(userRepository.findByIdIn(anyCollection())).thenReturn(List.of(user(1L), user(3L)));
+
+        mockMvc.perform(get("/api/users").param("ids", "3,2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$['3'].username").value("user3"))
+                .andExpect(jsonPath("$['1'].username").value("user1"))
+                .andExpect(content().string(matchesPattern("\\{\"3\":.*,\"1\":.*}")));
+    }
+
+    @Test
+    void bulkLookupWithFieldsUsesProjection() throws Exception {
+        when(userRepository.findProjectedByIdIn(anyCollection(), anySet()))
+                .thenReturn(Map.of(1L, Map.of("username", "user1"), 2L, Map.of("username", "user2")));
+
+        mockMvc.perform(get("/api/users").param("ids", "2,1,9").param("fields", "username"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"2\":{\"username\":\"user2\"},\"1\":{\"username\":\"user1\"}}"));
+    }
+
+    @Test
+    void bulkLookupRejectsUnknownField() throws Exception {
+        mockMvc.perform(get("/api/users").param("ids", "1").param("fields", "color"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> requestedIds() {
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).findByIdIn(ids.capture());
+        return new ArrayList<>(ids.getValue());
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setPassword("secret");
+        user.setRole(User.Role.USER);
+        user.setVehicles(List.of());
+        return user;
+    }
+}
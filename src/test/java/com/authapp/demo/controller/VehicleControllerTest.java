@@ -0,0 +1,114 @@
+package com.authapp.demo.controller;
+
+import com.authapp.demo.audit.AuditService;
+import com.authapp.demo.cache.ResponseCache;
+import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
+import com.authapp.demo.limit.AdaptiveConcurrencyLimiter;
+import com.authapp.demo.repository.UserRepository;
+import com.authapp.demo.repository.VehicleRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = VehicleController.class, properties = "api.bulk.max-ids=3")
+@Import(AdaptiveConcurrencyLimiter.class)
+class VehicleControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private VehicleRepository vehicleRepository;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private AuditService auditService;
+
+    @MockitoBean
+    private ResponseCache responseCache;
+
+    @Test
+    void bulkLookupRejectsMoreIdsThanAllowed() throws Exception {
+        mockMvc.perform(get("/api/vehicles").param("userIds", "1,2,3,4"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("At most 3 userIds are allowed per request"));
+
+        verifyNoInteractions(vehicleRepository);
+    }
+
+    @Test
+    void bulkLookupAppliesLimitAfterRemovingDuplicatesAndEmptyIds() throws Exception {
+        when(vehicleRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/vehicles").param("userIds", "3,1,,3,2,1"))
+                .andExpect(status().isOk());
+
+        assertEquals(List.of(3L, 1L, 2L), requestedUserIds());
+    }
+
+    @Test
+    void bulkLookupGroupsByOwnerInRequestOrderAndKeepsUnknownOwners() throws Exception {
+        User owner = new User();
+        owner.setId(1L);
+        owner.setUsername("user1");
+        when(vehicleRepository.findByUserIdIn(anyCollection()))
+                .thenReturn(List.of(vehicle(10L, owner), vehicle(11L, owner)));
+
+        mockMvc.perform(get("/api/vehicles").param("userIds", "9,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['9']").isEmpty())
+                .andExpect(jsonPath("$['1'].length()").value(2))
+                .andExpect(jsonPath("$['1'][0].plate").value("P-10"))
+                .andExpect(jsonPath("$['1'][1].user.username").value("user1"))
+                .andExpect(content().string(matchesPattern("\\{\"9\":\\[],\"1\":.*}")));
+    }
+
+    @Test
+    void bulkLookupWithFieldsUsesProjection() throws Exception {
+        when(vehicleRepository.findProjectedByUserIdIn(anyCollection(), anySet()))
+                .thenReturn(Map.of(1L, List.of(Map.of("plate", "P-10"))));
+
+        mockMvc.perform(get("/api/vehicles").param("userIds", "2,1").param("fields", "plate"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"2\":[],\"1\":[{\"plate\":\"P-10\"}]}"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> requestedUserIds() {
+        ArgumentCaptor<Collection<Long>> userIds = ArgumentCaptor.forClass(Collection.class);
+        verify(vehicleRepository).findByUserIdIn(userIds.capture());
+        return new ArrayList<>(userIds.getValue());
+    }
+
+    private static Vehicle vehicle(Long id, User owner) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(id);
+        vehicle.setPlate("P-" + id);
+        vehicle.setModel("Model");
+        vehicle.setUser(owner);
+        return vehicle;
+    }
+}
@@ -0,0 +1,90 @@
+package com.authapp.demo.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final long MS = 1_000_000;
+
+    @Test
+    void limitShrinksWhenLatencyRisesAndRecoversWhenItFalls() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+        feedWindows(limiter, 5, 10 * MS);
+        int beforeSlowdown = limiter.getLimit();
+
+        feedWindows(limiter, 10, 50 * MS);
+        int duringSlowdown = limiter.getLimit();
+        assertTrue(duringSlowdown < beforeSlowdown,
+                "limit should shrink, was " + beforeSlowdown + " now " + duringSlowdown);
+
+        feedWindows(limiter, 10, 10 * MS);
+        assertTrue(limiter.getLimit() > duringSlowdown,
+                "limit should recover, was " + duringSlowdown + " now " + limiter.getLimit());
+    }
+
+    @Test
+    void limitNeverExceedsMax() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 10, 30);
+
+        feedWindows(limiter, 50, 10 * MS);
+
+        assertEquals(30, limiter.getLimit());
+    }
+
+    @Test
+    void limitNeverDropsBelowMin() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 10, 30);
+        feedWindows(limiter, 1, 10 * MS);
+
+        feedWindows(limiter, 30, 100 * MS);
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void limitIsKeptWhileCapacityIsUnused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+        feedWindows(limiter, 1, 10 * MS);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(100 * MS, 1);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void lowerPriorityIsShedFirst() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 200);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(EndpointPriority.AUTH));
+        }
+
+        assertFalse(limiter.tryAcquire(EndpointPriority.ADMIN_WRITE));
+        assertTrue(limiter.tryAcquire(EndpointPriority.LIST));
+        assertTrue(limiter.tryAcquire(EndpointPriority.AUTH));
+        assertEquals(7, limiter.getInFlight());
+    }
+
+    @Test
+    void releaseFreesTheSlot() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 200);
+        assertTrue(limiter.tryAcquire(EndpointPriority.AUTH));
+        assertFalse(limiter.tryAcquire(EndpointPriority.AUTH));
+
+        limiter.release(10 * MS);
+
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire(EndpointPriority.AUTH));
+    }
+
+    // reports the limiter as fully used so every window updates the limit
+    private static void feedWindows(AdaptiveConcurrencyLimiter limiter, int windows, long rttNanos) {
+        for (int i = 0; i < windows * 10; i++) {
+            limiter.onSample(rttNanos, limiter.getLimit());
+        }
+    }
+}
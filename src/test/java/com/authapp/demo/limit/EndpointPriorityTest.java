@@ -0,0 +1,42 @@
+package com.authapp.demo.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EndpointPriorityTest {
+
+    @Test
+    void loginIsAuth() {
+        assertEquals(EndpointPriority.AUTH, EndpointPriority.classify("POST", "/api/users/login"));
+    }
+
+    @Test
+    void singleEntityReadsAreSingleRead() {
+        assertEquals(EndpointPriority.SINGLE_READ, EndpointPriority.classify("GET", "/api/users/5"));
+        assertEquals(EndpointPriority.SINGLE_READ, EndpointPriority.classify("GET", "/api/vehicles/12"));
+        assertEquals(EndpointPriority.SINGLE_READ, EndpointPriority.classify("HEAD", "/api/users/5"));
+    }
+
+    @Test
+    void otherReadsAreList() {
+        assertEquals(EndpointPriority.LIST, EndpointPriority.classify("GET", "/api/users"));
+        assertEquals(EndpointPriority.LIST, EndpointPriority.classify("GET", "/api/vehicles/user/5"));
+        // ?ids= bulk lookups arrive with the query string stripped from the path
+        assertEquals(EndpointPriority.LIST, EndpointPriority.classify("GET", "/api/vehicles"));
+    }
+
+    @Test
+    void writesAreAdminWrite() {
+        assertEquals(EndpointPriority.ADMIN_WRITE, EndpointPriority.classify("POST", "/api/vehicles"));
+        assertEquals(EndpointPriority.ADMIN_WRITE, EndpointPriority.classify("PUT", "/api/users/5"));
+        assertEquals(EndpointPriority.ADMIN_WRITE, EndpointPriority.classify("DELETE", "/api/vehicles/5"));
+    }
+
+    @Test
+    void nonApiPathsAreNotLimited() {
+        assertNull(EndpointPriority.classify("GET", "/actuator/health"));
+        assertNull(EndpointPriority.classify("GET", "/"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.authapp.demo.repository;
+
+import com.authapp.demo.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.authapp.demo.repository.VehicleRepositoryCustomImplTest.user;
+import static com.authapp.demo.repository.VehicleRepositoryCustomImplTest.vehicle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// "user" is a reserved word in H2, so identifiers are quoted
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"})
+class UserRepositoryCustomImplTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(user("alice"));
+        bob = entityManager.persist(user("bob"));
+        entityManager.persist(vehicle("A-1", "Golf", alice));
+        entityManager.persist(vehicle("A-2", "Transit", alice));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void selectsOnlyRequestedColumnsInRequestedOrder() {
+        Map<Long, Map<String, Object>> rows = userRepository.findProjectedByIdIn(
+                List.of(alice.getId(), bob.getId()), fields("username", "id"));
+
+        assertEquals(List.of("username", "id"), List.copyOf(rows.get(alice.getId()).keySet()));
+        assertEquals("alice", rows.get(alice.getId()).get("username"));
+        assertEquals(bob.getId(), rows.get(bob.getId()).get("id"));
+    }
+
+    @Test
+    void readsVehicleSummariesGroupedByOwner() {
+        Map<Long, Map<String, Object>> rows = userRepository.findProjectedByIdIn(
+                List.of(alice.getId(), bob.getId()), fields("vehicles"));
+
+        assertEquals(Set.of("vehicles"), rows.get(alice.getId()).keySet());
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> vehicles = (List<Map<String, Object>>) rows.get(alice.getId()).get("vehicles");
+        assertEquals(Set.of(Map.of("plate", "A-1", "model", "Golf"), Map.of("plate", "A-2", "model", "Transit")),
+                Set.copyOf(vehicles));
+        assertEquals(List.of(), rows.get(bob.getId()).get("vehicles"));
+    }
+
+    @Test
+    void findAllProjectedReturnsEveryUser() {
+        List<Map<String, Object>> rows = userRepository.findAllProjected(fields("username"));
+
+        assertEquals(Set.of(Map.of("username", "alice"), Map.of("username", "bob")), Set.copyOf(rows));
+    }
+
+    @Test
+    void unknownIdsAreLeftOut() {
+        assertEquals(Set.of(alice.getId()),
+                userRepository.findProjectedByIdIn(List.of(alice.getId(), -1L), fields("id")).keySet());
+    }
+
+    private static Set<String> fields(String... names) {
+        return new LinkedHashSet<>(List.of(names));
+    }
+}
@@ -0,0 +1,110 @@
+package com.authapp.demo.repository;
+
+import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// "user" is a reserved word in H2, so identifiers are quoted
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"})
+class VehicleRepositoryCustomImplTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    private User alice;
+    private User bob;
+    private Vehicle aliceCar;
+    private Vehicle aliceVan;
+    private Vehicle bobCar;
+    private Vehicle ownerless;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(user("alice"));
+        bob = entityManager.persist(user("bob"));
+        aliceCar = entityManager.persist(vehicle("A-1", "Golf", alice));
+        aliceVan = entityManager.persist(vehicle("A-2", "Transit", alice));
+        bobCar = entityManager.persist(vehicle("B-1", "Polo", bob));
+        ownerless = entityManager.persist(vehicle("X-1", "Beetle", null));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void selectsOnlyRequestedColumn() {
+        List<Map<String, Object>> rows = vehicleRepository.findAllProjected(fields("plate"));
+
+        assertEquals(4, rows.size());
+        rows.forEach(row -> assertEquals(Set.of("plate"), row.keySet()));
+        assertEquals(Set.of("A-1", "A-2", "B-1", "X-1"),
+                Set.copyOf(rows.stream().map(row -> row.get("plate")).toList()));
+    }
+
+    @Test
+    void selectsOwnerSummaryAndKeepsVehiclesWithoutOwner() {
+        Map<Long, Map<String, Object>> rows = vehicleRepository.findProjectedByIdIn(
+                List.of(aliceCar.getId(), ownerless.getId()), fields("id", "user"));
+
+        assertEquals(2, rows.size());
+        Map<String, Object> owned = rows.get(aliceCar.getId());
+        assertEquals(List.of("id", "user"), List.copyOf(owned.keySet()));
+        assertEquals(aliceCar.getId(), owned.get("id"));
+        assertEquals(Map.of("id", alice.getId(), "username", "alice"), owned.get("user"));
+
+        Map<String, Object> unowned = rows.get(ownerless.getId());
+        assertEquals(ownerless.getId(), unowned.get("id"));
+        assertNull(unowned.get("user"));
+    }
+
+    @Test
+    void groupsVehiclesByOwner() {
+        Map<Long, List<Map<String, Object>>> rows = vehicleRepository.findProjectedByUserIdIn(
+                List.of(alice.getId(), bob.getId(), -1L), fields("plate"));
+
+        assertEquals(Set.of(alice.getId(), bob.getId()), rows.keySet());
+        assertEquals(Set.of(Map.of("plate", "A-1"), Map.of("plate", "A-2")), Set.copyOf(rows.get(alice.getId())));
+        assertEquals(List.of(Map.of("plate", "B-1")), rows.get(bob.getId()));
+    }
+
+    @Test
+    void emptyIdsQueryNothing() {
+        assertEquals(Map.of(), vehicleRepository.findProjectedByIdIn(List.of(), fields("plate")));
+        assertEquals(Map.of(), vehicleRepository.findProjectedByUserIdIn(List.of(), fields("plate")));
+    }
+
+    private static Set<String> fields(String... names) {
+        return new LinkedHashSet<>(List.of(names));
+    }
+
+    static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("secret");
+        user.setRole(User.Role.USER);
+        return user;
+    }
+
+    static Vehicle vehicle(String plate, String model, User owner) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setPlate(plate);
+        vehicle.setModel(model);
+        vehicle.setUser(owner);
+        return vehicle;
+    }
+}
@@ -0,0 +1,98 @@
+package com.authapp.demo.util;
+
+import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sample user/vehicle graphs and an interleaved timing loop shared by the serialization benchmarks.
+ */
+final class BenchmarkData {
+    static final int USERS = 500;
+    static final int VEHICLES_PER_USER = 4;
+    private static final int WARMUP_ROUNDS = 300;
+    private static final int MEASURED_ROUNDS = 500;
+    private static final int TRIALS = 7;
+
+    private BenchmarkData() {}
+
+    /**
+     * Builds users with their vehicles, linked both ways like loaded entities.
+     */
+    static List<User> sampleUsers() {
+        List<User> users = new ArrayList<>();
+        long vehicleId = 1;
+        for (long id = 1; id <= USERS; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setUsername("user" + id);
+            user.setPassword("password" + id);
+            user.setRole(id % 10 == 0 ? User.Role.ADMIN : User.Role.USER);
+            List<Vehicle> vehicles = new ArrayList<>();
+            for (int v = 0; v < VEHICLES_PER_USER; v++) {
+                Vehicle vehicle = new Vehicle();
+                vehicle.setId(vehicleId++);
+                vehicle.setPlate("ABC-" + (1000 + vehicleId));
+                vehicle.setModel("Model " + (char) ('A' + v));
+                vehicle.setUser(user);
+                vehicles.add(vehicle);
+            }
+            user.setVehicles(vehicles);
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<Vehicle> vehiclesOf(List<User> users) {
+        return users.stream().flatMap(user -> user.getVehicles().stream()).toList();
+    }
+
+    /**
+     * Measures the tasks against each other in the same JVM without favouring any of them: all tasks are
+     * warmed up together, round by round, then every trial times each task once, in an order rotated by
+     * one per trial so no task is always measured first.
+     *
+     * @return the median mean time per call of each task in microseconds, in the given order
+     */
+    static Map<String, Double> measure(Map<String, Task> tasks) throws Exception {
+        List<String> names = new ArrayList<>(tasks.keySet());
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            for (Task task : tasks.values()) {
+                task.run();
+            }
+        }
+        Map<String, double[]> samples = new LinkedHashMap<>();
+        names.forEach(name -> samples.put(name, new double[TRIALS]));
+        for (int trial = 0; trial < TRIALS; trial++) {
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get((trial + i) % names.size());
+                samples.get(name)[trial] = time(tasks.get(name));
+            }
+        }
+        Map<String, Double> medians = new LinkedHashMap<>();
+        samples.forEach((name, times) -> {
+            Arrays.sort(times);
+            medians.put(name, times[TRIALS / 2]);
+        });
+        return medians;
+    }
+
+    // mean time of the measured rounds in microseconds
+    private static double time(Task task) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_ROUNDS;
+    }
+
+    @FunctionalInterface
+    interface Task {
+        Object run() throws Exception;
+    }
+}
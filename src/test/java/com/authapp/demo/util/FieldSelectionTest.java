@@ -0,0 +1,50 @@
+package com.authapp.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldSelectionTest {
+
+    @Test
+    void missingOrBlankSelectsFullEntities() {
+        assertNull(FieldSelection.parse(null, FieldSelection.USER_FIELDS));
+        assertNull(FieldSelection.parse("", FieldSelection.USER_FIELDS));
+        assertNull(FieldSelection.parse("  ", FieldSelection.USER_FIELDS));
+        assertNull(FieldSelection.parse(" , ,", FieldSelection.USER_FIELDS));
+    }
+
+    @Test
+    void trimsNamesAndKeepsRequestOrder() {
+        Set<String> fields = FieldSelection.parse(" plate , id", FieldSelection.VEHICLE_FIELDS);
+
+        assertEquals(List.of("plate", "id"), List.copyOf(fields));
+    }
+
+    @Test
+    void skipsEmptyEntries() {
+        Set<String> fields = FieldSelection.parse("id,,username,", FieldSelection.USER_FIELDS);
+
+        assertEquals(List.of("id", "username"), List.copyOf(fields));
+    }
+
+    @Test
+    void collapsesDuplicates() {
+        Set<String> fields = FieldSelection.parse("id,model,id", FieldSelection.VEHICLE_FIELDS);
+
+        assertEquals(List.of("id", "model"), List.copyOf(fields));
+    }
+
+    @Test
+    void rejectsUnknownField() {
+        UnknownFieldException e = assertThrows(UnknownFieldException.class,
+                () -> FieldSelection.parse("id,color", FieldSelection.VEHICLE_FIELDS));
+
+        assertEquals("Unknown field: color", e.getMessage());
+    }
+}
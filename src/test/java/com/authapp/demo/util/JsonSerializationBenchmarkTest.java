@@ -0,0 +1,142 @@
+package com.authapp.demo.util;
+
+import com.authapp.demo.config.JacksonConfig;
+import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static com.authapp.demo.util.BenchmarkData.measure;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Compares JSON encoding throughput before and after the serialization tuning on
+ * getAllUsers/getAllVehicles-sized payloads, and reports what response compression saves:
+ * <ul>
+ *     <li>before: Spring Boot's default ObjectMapper with the original writeStringField summary serializers</li>
+ *     <li>summary: the same mapper with the current, pre-encoded field name summary serializers</li>
+ *     <li>shipped: the ObjectMapper the application builds, with JacksonConfig applied (shared buffer pool)</li>
+ *     <li>blackbird: the same with {@code json.blackbird.enabled=true} (generated bean serializers)</li>
+ * </ul>
+ * All mappers come from Boot's auto-configuration, so they carry the same builder defaults as the running app.
+ * The variants are measured interleaved over several trials and the median is reported.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class JsonSerializationBenchmarkTest {
+
+    @Test
+    void compareBeforeAndAfterTuning() throws Exception {
+        ObjectMapper summary = mapperOf(new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class)));
+        ObjectMapper before = summary.copy()
+                .addMixIn(User.class, LegacyUserMixin.class)
+                .addMixIn(Vehicle.class, LegacyVehicleMixin.class);
+        ApplicationContextRunner app = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+                .withUserConfiguration(JacksonConfig.class);
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("before", before);
+        mappers.put("summary", summary);
+        mappers.put("shipped", mapperOf(app));
+        mappers.put("blackbird", mapperOf(app.withPropertyValues("json.blackbird.enabled=true")));
+
+        List<User> users = BenchmarkData.sampleUsers();
+        List<Vehicle> vehicles = BenchmarkData.vehiclesOf(users);
+
+        compare("users", users, mappers);
+        compare("vehicles", vehicles, mappers);
+    }
+
+    private void compare(String name, List<?> payload, Map<String, ObjectMapper> mappers) throws Exception {
+        byte[] expected = mappers.get("before").writeValueAsBytes(payload);
+        Map<String, BenchmarkData.Task> tasks = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+            // no variant may alter a single byte of the output
+            assertArrayEquals(expected, mapper.getValue().writeValueAsBytes(payload), mapper.getKey());
+            tasks.put(mapper.getKey(), () -> mapper.getValue().writeValueAsBytes(payload));
+        }
+
+        Map<String, Double> micros = measure(tasks);
+        double beforeMicros = micros.get("before");
+        StringBuilder line = new StringBuilder(String.format("%-8s |", name));
+        micros.forEach((variant, time) -> line.append(String.format(" %s %8.0f ops/s (x%.2f)",
+                variant, 1_000_000 / time, beforeMicros / time)));
+        System.out.println(line);
+        byte[] gzipped = gzip(expected);
+        System.out.printf("%-8s | body %8d B, gzip %8d B (%.0f%%)%n",
+                name, expected.length, gzipped.length, 100.0 * gzipped.length / expected.length);
+    }
+
+    private static ObjectMapper mapperOf(ApplicationContextRunner runner) {
+        AtomicReference<ObjectMapper> mapper = new AtomicReference<>();
+        runner.run(context -> mapper.set(context.getBean(ObjectMapper.class)));
+        return mapper.get();
+    }
+
+    private byte[] gzip(byte[] body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Swaps in the original summary serializer for a user's vehicles.
+     */
+    abstract static class LegacyUserMixin {
+        @JsonSerialize(contentUsing = LegacyVehicleSummarySerializer.class)
+        List<Vehicle> vehicles;
+    }
+
+    /**
+     * Swaps in the original summary serializer for a vehicle's owner.
+     */
+    abstract static class LegacyVehicleMixin {
+        @JsonSerialize(using = LegacyUserSummarySerializer.class)
+        User user;
+    }
+
+    /**
+     * {@link UserSummarySerializer} as it was before field names were pre-encoded.
+     */
+    static class LegacyUserSummarySerializer extends JsonSerializer<User> {
+        @Override
+        public void serialize(User user, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("id", user.getId());
+            gen.writeStringField("username", user.getUsername());
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * {@link VehicleSummarySerializer} as it was before field names were pre-encoded.
+     */
+    static class LegacyVehicleSummarySerializer extends JsonSerializer<Vehicle> {
+        @Override
+        public void serialize(Vehicle vehicle, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("plate", vehicle.getPlate());
+            gen.writeStringField("model", vehicle.getModel());
+            gen.writeEndObject();
+        }
+    }
+}
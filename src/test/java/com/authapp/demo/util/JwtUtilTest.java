@@ -0,0 +1,30 @@
+package com.authapp.demo.util;
+
+import com.authapp.demo.entity.User;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JwtUtilTest {
+
+    @Test
+    void actorOfUserTokenIsItsSubject() {
+        User user = new User();
+        user.setUsername("alice");
+        user.setRole(User.Role.USER);
+
+        assertEquals("alice", JwtUtil.extractActor("Bearer " + JwtUtil.generateToken(user)));
+    }
+
+    @Test
+    void adminTokenIsNeverRecordedAsActor() {
+        assertEquals(JwtUtil.ADMIN_ACTOR, JwtUtil.extractActor("Bearer " + JwtUtil.ADMIN_TOKEN));
+    }
+
+    @Test
+    void missingOrInvalidTokenIsAnonymous() {
+        assertEquals("anonymous", JwtUtil.extractActor(null));
+        assertEquals("anonymous", JwtUtil.extractActor("Basic abc"));
+        assertEquals("anonymous", JwtUtil.extractActor("Bearer not-a-jwt"));
+    }
+}
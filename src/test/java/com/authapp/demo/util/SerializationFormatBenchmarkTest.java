@@ -0,0 +1,75 @@
+package com.authapp.demo.util;
+
+import com.authapp.demo.config.CborConfig;
+import com.authapp.demo.config.JacksonConfig;
+import com.authapp.demo.entity.User;
+import com.authapp.demo.entity.Vehicle;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.authapp.demo.util.BenchmarkData.measure;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares payload size and encode/decode cost of JSON and CBOR for user and vehicle lists
+ * shaped like the getAllUsers/getAllVehicles responses. Both mappers are the ones the application serves with:
+ * Boot's auto-configured ObjectMapper and the CborConfig converter, with JacksonConfig applied to both.
+ * The formats are measured interleaved over several trials and the median is reported.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class SerializationFormatBenchmarkTest {
+
+    @Test
+    void compareJsonAndCbor() throws Exception {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+                .withUserConfiguration(JacksonConfig.class, CborConfig.class)
+                .run(context -> {
+                    mappers.put("json", context.getBean(ObjectMapper.class));
+                    mappers.put("cbor", context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper());
+                });
+        List<User> users = BenchmarkData.sampleUsers();
+        List<Vehicle> vehicles = BenchmarkData.vehiclesOf(users);
+
+        compare("users", users, new TypeReference<List<User>>() {}, mappers.get("json"), mappers.get("cbor"));
+        compare("vehicles", vehicles, new TypeReference<List<Vehicle>>() {}, mappers.get("json"), mappers.get("cbor"));
+    }
+
+    private <T> void compare(String name, List<T> payload, TypeReference<List<T>> type,
+                             ObjectMapper json, ObjectMapper cbor) throws Exception {
+        byte[] jsonBytes = json.writeValueAsBytes(payload);
+        byte[] cborBytes = cbor.writeValueAsBytes(payload);
+
+        // both formats must carry the same logical document, including the summary serializers' output
+        assertEquals(json.readTree(jsonBytes), cbor.readTree(cborBytes));
+        assertEquals(payload.size(), cbor.readValue(cborBytes, type).size());
+        assertTrue(cborBytes.length < jsonBytes.length, "CBOR payload should be smaller than JSON");
+
+        Map<String, BenchmarkData.Task> encode = new LinkedHashMap<>();
+        encode.put("json", () -> json.writeValueAsBytes(payload));
+        encode.put("cbor", () -> cbor.writeValueAsBytes(payload));
+        Map<String, BenchmarkData.Task> decode = new LinkedHashMap<>();
+        decode.put("json", () -> json.readValue(jsonBytes, type));
+        decode.put("cbor", () -> cbor.readValue(cborBytes, type));
+        Map<String, Double> encodeMicros = measure(encode);
+        Map<String, Double> decodeMicros = measure(decode);
+
+        System.out.printf("%-8s | size json %8d B, cbor %8d B (%.0f%%)%n",
+                name, jsonBytes.length, cborBytes.length, 100.0 * cborBytes.length / jsonBytes.length);
+        System.out.printf("%-8s | encode json %8.1f us, cbor %8.1f us | decode json %8.1f us, cbor %8.1f us%n",
+                name, encodeMicros.get("json"), encodeMicros.get("cbor"), decodeMicros.get("json"), decodeMicros.get("cbor"));
+    }
+}